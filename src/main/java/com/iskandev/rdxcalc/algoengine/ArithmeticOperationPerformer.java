@@ -2,11 +2,20 @@ package com.iskandev.rdxcalc.algoengine;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.math.BigInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
 
 final class ArithmeticOperationPerformer {
 
     private final static char EMPTY_SYMBOL = ' ';
 
+    /**
+     * The max amount of fractional digits of a power (it's the base's amount of them times the exponent),
+     * so e.g. 1.0000000001^300000000 would overflow an {@code int} and take a very long time
+     */
+    static final int MAX_POWER_SCALE = 1 << 16;
+
     /**
      * @deprecated useless unused constructor
      * {@code ArithmeticOperationPerformer}-class doesn't require to create an instance to perform arithmetic operations
@@ -17,6 +26,10 @@ final class ArithmeticOperationPerformer {
      * @see #getDifference(Number, Number)
      * @see #getProduct(Number, Number)
      * @see #getQuotient(Number, Number)
+     * @see #getQuotientExpansion(Number, Number)
+     * @see #getPower(Number, int)
+     * @see #getModularPower(Number, Number, Number)
+     * @see #getRoot(Number, int, int)
      */
     private ArithmeticOperationPerformer() {}
 
@@ -205,28 +218,363 @@ final class ArithmeticOperationPerformer {
     @NotNull
     static Number getProduct(@NotNull final Number number1, @NotNull final Number number2) {
 
-        if (number1.getRadix() != number2.getRadix())
+        // ZERO and ±ONE are shared decimal constants, they are multiplied with a number of any radix
+        if (!isRadixFree(number1) && !isRadixFree(number2) && number1.getRadix() != number2.getRadix())
             throw new IllegalArgumentException("Radixes aren't equal");
 
-        return null;
+        if (number1.equals(Number.ZERO) || number2.equals(Number.ZERO))
+            return Number.ZERO;
+
+        if (isRadixFree(number1))
+            return (number1.signum() > 0) ? number2 : number2.negate();
+
+        if (isRadixFree(number2))
+            return (number2.signum() > 0) ? number1 : number1.negate();
+
+        final int RADIX = number1.getRadix();
+        final int RESULT_SIGNUM = (number1.signum() == number2.signum()) ? (1) : (-1);
+
+        // The product of fixed-point numbers has as many fractional digits as both of them together
+        final int[] product = DigitArithmetic.multiply(DigitArithmetic.toDigits(number1), DigitArithmetic.toDigits(number2), RADIX);
+        final int RESULT_SCALE = number1.getFractionalPartRepresent().length() + number2.getFractionalPartRepresent().length();
+
+        return DigitArithmetic.toNumber(product, RESULT_SCALE, RADIX, RESULT_SIGNUM);
     }
 
     @NotNull
     static Number getQuotient(@NotNull final Number number1, @NotNull final Number number2) {
 
-        if (number1.getRadix() != number2.getRadix())
+        // ZERO and ±ONE are shared decimal constants, they are divided by (or divide) a number of any radix
+        if (!isRadixFree(number1) && !isRadixFree(number2) && number1.getRadix() != number2.getRadix())
             throw new IllegalArgumentException("Radixes aren't equal");
 
         if (number1.equals(Number.ZERO) || number2.equals(Number.ZERO))
             return Number.ZERO;
 
-        final int RADIX = number1.getRadix();
+        if (isRadixFree(number2))
+            return (number2.signum() > 0) ? number1 : number1.negate();
+
+        // Only the digits which are kept are generated
+        return getQuotientExpansion(number1, number2).toNumber(Converter.DEFAULT_FRACTIONAL_LENGTH);
+    }
+
+    /**
+     * number1 = A / radix^fa, number2 = B / radix^fb, so number1 / number2 = (A * radix^fb) / (B * radix^fa)
+     * @return exact expansion of the quotient in the numbers' radix
+     */
+    @NotNull
+    static RadixExpansion getQuotientExpansion(@NotNull final Number number1, @NotNull final Number number2) {
+
+        if (!isRadixFree(number1) && !isRadixFree(number2) && number1.getRadix() != number2.getRadix())
+            throw new IllegalArgumentException("Radixes aren't equal");
+
+        if (number2.equals(Number.ZERO))
+            throw new IllegalArgumentException("Division by zero.");
+
+        // The expansion is in the radix of the number which isn't a shared decimal constant
+        final int RADIX = isRadixFree(number1) ? number2.getRadix() : number1.getRadix();
         final int RESULT_SIGNUM = (number1.signum() == number2.signum()) ? (1) : (-1);
 
+        final String fract1 = number1.getFractionalPartRepresent(), fract2 = number2.getFractionalPartRepresent();
+        final BigInteger bigRadix = BigInteger.valueOf(RADIX);
+
+        final BigInteger dividend = DigitArithmetic.toUnscaledValue(number1).multiply(bigRadix.pow(fract2.length()));
+        final BigInteger divisor = DigitArithmetic.toUnscaledValue(number2).multiply(bigRadix.pow(fract1.length()));
+
+        return RadixExpansion.ofQuotient(dividend, divisor, RADIX, RESULT_SIGNUM);
+    }
+
+    @NotNull
+    static Number getPower(@NotNull final Number base, final int exponent) {
+
+        if (exponent < 0)
+            throw new IllegalArgumentException("Exponent is negative.");
+
+        if (exponent == 0)
+            return Number.POSITIVE_ONE;
+
+        if (exponent == 1 || base.equals(Number.ZERO) || base.equals(Number.POSITIVE_ONE))
+            return base;
+
+        final int RADIX = base.getRadix();
+        final int RESULT_SIGNUM = (base.signum() < 0 && exponent % 2 == 1) ? (-1) : (1);
+        // The power has 'exponent' times as many fractional digits as the base, it can't overflow in a long
+        final long RESULT_SCALE = (long) base.getFractionalPartRepresent().length() * exponent;
+
+        if (RESULT_SCALE > MAX_POWER_SCALE)
+            throw new IllegalArgumentException("Power has too many fractional digits.");
+
+        final int[] power = getSlidingWindowPower(DigitArithmetic.toDigits(base), BigInteger.valueOf(exponent),
+                digits -> DigitArithmetic.square(digits, RADIX),
+                (digits1, digits2) -> DigitArithmetic.multiply(digits1, digits2, RADIX));
+
+        return DigitArithmetic.toNumber(power, (int) RESULT_SCALE, RADIX, RESULT_SIGNUM);
+    }
+
+    /**
+     * Uses Barrett reduction in the base's radix, so all of the intermediate products have less than
+     * twice as many digits as the modulus
+     *
+     * @return {@code base^exponent mod modulus} in the base's radix, it's never negative
+     */
+    @NotNull
+    static Number getModularPower(@NotNull final Number base, @NotNull final Number exponent, @NotNull final Number modulus) {
+
+        if (!base.getFractionalPartRepresent().isEmpty() || !exponent.getFractionalPartRepresent().isEmpty() ||
+                !modulus.getFractionalPartRepresent().isEmpty())
+            throw new IllegalArgumentException("Numbers aren't integer.");
+
+        if (modulus.signum() <= 0)
+            throw new IllegalArgumentException("Modulus isn't positive.");
+
+        if (exponent.signum() < 0)
+            throw new IllegalArgumentException("Exponent is negative.");
+
+        /*
+        ZERO and ±ONE are shared decimal constants, but their digits mean the same in any radix,
+        so only the radixes of the other numbers must be equal (the exponent's radix doesn't matter at all)
+         */
+        if (!isRadixFree(base) && !isRadixFree(modulus) && base.getRadix() != modulus.getRadix())
+            throw new IllegalArgumentException("Radixes aren't equal");
+
+        if (modulus.equals(Number.POSITIVE_ONE))
+            return Number.ZERO;
+
+        if (exponent.equals(Number.ZERO) || base.equals(Number.POSITIVE_ONE))
+            return Number.POSITIVE_ONE;
+
+        if (base.equals(Number.ZERO))
+            return Number.ZERO;
+
+        // The result is in the modulus's radix: the base may be a constant
+        final int RADIX = modulus.getRadix();
+
+        // The exponent is only read bit by bit, so it may be in any radix
+        final BigInteger bigExponent = new BigInteger(exponent.getIntegerPartRepresent(), exponent.getRadix());
+
+        final int[] modulusDigits = DigitArithmetic.toDigits(modulus);
+        final int k = modulusDigits.length;
+
+        // (-1)^e mod m = 1 for an even exponent, or m - 1 for an odd one
+        if (base.equals(Number.NEGATIVE_ONE))
+            return bigExponent.testBit(0) ?
+                    DigitArithmetic.toNumber(DigitArithmetic.subtract(modulusDigits, new int[] {1}, RADIX), 0, RADIX, 1) :
+                    Number.POSITIVE_ONE;
+
+        // mu = floor(radix^(2k) / modulus)
+        final int[] mu = DigitArithmetic.divide(DigitArithmetic.withTopDigit(DigitArithmetic.ZERO, 2 * k), modulusDigits, RADIX)[0];
+
+        final UnaryOperator<int[]> reduce = digits -> getBarrettReduction(digits, modulusDigits, mu, RADIX);
+
+        final int[] reducedBase = DigitArithmetic.divide(DigitArithmetic.toDigits(base), modulusDigits, RADIX)[1];
+
+        int[] power = getSlidingWindowPower(reducedBase, bigExponent,
+                digits -> reduce.apply(DigitArithmetic.square(digits, RADIX)),
+                (digits1, digits2) -> reduce.apply(DigitArithmetic.multiply(digits1, digits2, RADIX)));
+
+        // (-a)^e = -(a^e) for an odd exponent, and the result must be in [0, modulus)
+        if (base.signum() < 0 && bigExponent.testBit(0) && power.length != 0)
+            power = DigitArithmetic.subtract(modulusDigits, power, RADIX);
 
+        return DigitArithmetic.toNumber(power, 0, RADIX, 1);
+    }
+
+    /**
+     * Left-to-right sliding window exponentiation
+     * The odd powers {@code base^1, base^3, .. base^(2^w - 1)} are precomputed, then every window
+     * of the exponent costs one multiplication and the rest of its bits cost squarings only
+     *
+     * @param exponent must be positive
+     */
+    @NotNull
+    private static int[] getSlidingWindowPower(@NotNull final int[] base, @NotNull final BigInteger exponent,
+                                               @NotNull final UnaryOperator<int[]> square,
+                                               @NotNull final BinaryOperator<int[]> multiply) {
+
+        final int bitLength = exponent.bitLength();
+        final int windowSize = getWindowSize(bitLength);
+
+        // oddPowers[i] = base^(2i + 1)
+        final int[][] oddPowers = new int[1 << (windowSize - 1)][];
+        oddPowers[0] = base;
+        if (oddPowers.length > 1) {
+            final int[] baseSquare = square.apply(base);
+            for (int i = 1; i < oddPowers.length; i++)
+                oddPowers[i] = multiply.apply(oddPowers[i - 1], baseSquare);
+        }
+
+        // 'null' means one: it avoids useless squarings before the first window
+        int[] result = null;
+
+        for (int i = bitLength - 1; i >= 0; ) {
+            if (!exponent.testBit(i)) {
+                result = square.apply(result);
+                i--;
+                continue;
+            }
+
+            // The window [i..j] starts and ends with 1-bit
+            int j = Math.max(i - windowSize + 1, 0);
+            while (!exponent.testBit(j))
+                j++;
+
+            int window = 0;
+            for (int bit = i; bit >= j; bit--)
+                window = (window << 1) | (exponent.testBit(bit) ? 1 : 0);
+
+            if (result == null)
+                result = oddPowers[window >> 1];
+            else {
+                for (int bit = i; bit >= j; bit--)
+                    result = square.apply(result);
+                result = multiply.apply(result, oddPowers[window >> 1]);
+            }
+
+            i = j - 1;
+        }
+
+        return result;
+    }
 
+    private static int getWindowSize(final int exponentBitLength) {
+        // Bit lengths for which the next window size becomes cheaper (the same thresholds as BigInteger.modPow)
+        final int[] thresholds = {7, 25, 81, 241, 673};
 
+        int windowSize = 1;
+        while (windowSize <= thresholds.length && exponentBitLength > thresholds[windowSize - 1])
+            windowSize++;
+
+        return windowSize;
+    }
+
+    /**
+     * Barrett reduction (Handbook of Applied Cryptography, Algorithm 14.42) in any radix
+     *
+     * @param digits must be less than {@code radix^(2k)}, where {@code k} is the amount of the modulus digits
+     * @param mu {@code floor(radix^(2k) / modulus)}
+     * @return {@code digits mod modulus}
+     */
+    @NotNull
+    private static int[] getBarrettReduction(@NotNull final int[] digits, @NotNull final int[] modulus,
+                                             @NotNull final int[] mu, final int radix) {
+
+        if (DigitArithmetic.compare(digits, modulus) < 0)
+            return digits;
+
+        final int k = modulus.length;
+
+        // The estimation of the quotient: floor(floor(digits / radix^(k-1)) * mu / radix^(k+1))
+        final int[] quotient = DigitArithmetic.shiftDown(
+                DigitArithmetic.multiply(DigitArithmetic.shiftDown(digits, k - 1), mu, radix), k + 1);
+
+        /*
+        The estimation is less than the quotient by at most 2, so the remainder is less than 3 * modulus,
+        and it's computed modulo radix^length such that 3 * modulus < radix^length
+        radix^(k+1) is enough for radix >= 3 only: e.g. 11011001011000^11 mod 11110010111100 (2) needs k+2 digits
+         */
+        final int REMAINDER_LENGTH = (radix == 2) ? (k + 2) : (k + 1);
+
+        final int[] remainder1 = DigitArithmetic.lowDigits(digits, REMAINDER_LENGTH);
+        final int[] remainder2 = DigitArithmetic.lowDigits(DigitArithmetic.multiply(quotient, modulus, radix), REMAINDER_LENGTH);
+
+        int[] remainder = (DigitArithmetic.compare(remainder1, remainder2) >= 0) ?
+                DigitArithmetic.subtract(remainder1, remainder2, radix) :
+                DigitArithmetic.subtract(DigitArithmetic.withTopDigit(remainder1, REMAINDER_LENGTH), remainder2, radix);
+
+        while (DigitArithmetic.compare(remainder, modulus) >= 0)
+            remainder = DigitArithmetic.subtract(remainder, modulus, radix);
+
+        return remainder;
+    }
+
+    /**
+     * @return {@code degree}-th root of the {@code number} truncated (towards zero) to {@code scale} fractional digits
+     */
+    @NotNull
+    static Number getRoot(@NotNull final Number number, final int degree, final int scale) {
+
+        if (degree < 1)
+            throw new IllegalArgumentException("Root degree isn't positive.");
+
+        if (scale < 0)
+            throw new IllegalArgumentException("Scale is negative.");
+
+        if (number.signum() < 0 && degree % 2 == 0)
+            throw new IllegalArgumentException("Even root of negative number.");
+
+        if (number.equals(Number.ZERO) || number.equals(Number.POSITIVE_ONE) || number.equals(Number.NEGATIVE_ONE))
+            return number;
+
+        final int RADIX = number.getRadix();
+        final String fractionalPart = number.getFractionalPartRepresent();
+
+        /*
+        number = N / radix^f (see DigitArithmetic.toUnscaledValue), so root(number) * radix^s = root(N * radix^(degree*s - f))
+        The working scale must be enough to keep all of the number's fractional digits: degree * workingScale >= f
+         */
+        final int WORKING_SCALE = Math.max(scale, (fractionalPart.length() + degree - 1) / degree);
+        final BigInteger radicand = DigitArithmetic.toUnscaledValue(number)
+                .multiply(BigInteger.valueOf(RADIX).pow(degree * WORKING_SCALE - fractionalPart.length()));
+
+        final StringBuilder resultStr = new StringBuilder(getIntegerRoot(radicand, degree).toString(RADIX).toUpperCase());
+
+        // Restore the point: the root has WORKING_SCALE fractional digits, only 'scale' of them are kept
+        while (resultStr.length() <= WORKING_SCALE)
+            resultStr.insert(0, '0');
+
+        resultStr.insert(resultStr.length() - WORKING_SCALE, '.');
+        resultStr.setLength(resultStr.length() - (WORKING_SCALE - scale));
+
+        return Number.valueOfUnsigned(RADIX, resultStr.toString(), number.signum());
+    }
+
+    /**
+     * Newton's iteration with doubling precision:
+     * the root of the leading half of the bits is found recursively, and it already has a half of the correct bits,
+     * so one or two full precision steps are enough. Only the deepest step starts from a {@code double} estimate
+     *
+     * @return {@code floor(radicand^(1/degree))}
+     */
+    @NotNull
+    private static BigInteger getIntegerRoot(@NotNull final BigInteger radicand, final int degree) {
+
+        // The leading digits fit in a double: the estimate is almost exact, just correct it
+        if (radicand.bitLength() <= 52) {
+            final long value = radicand.longValue();
+            long root = (long) Math.pow(value, 1.0 / degree);
+
+            while (root > 0 && BigInteger.valueOf(root).pow(degree).compareTo(radicand) > 0)
+                root--;
+            while (BigInteger.valueOf(root + 1).pow(degree).compareTo(radicand) <= 0)
+                root++;
+
+            return BigInteger.valueOf(root);
+        }
+
+        // root(radicand) = root(radicand / 2^(degree*k)) * 2^k, where k is a half of the root's bit length
+        final int k = radicand.bitLength() / degree / 2;
+
+        /*
+        It's not less than the root, so the iteration decreases monotonically till the floor of the root
+        If the root has less than 2 bits (k = 0), there is nothing to halve: 2^(bitLength/degree + 1) is above it already
+         */
+        BigInteger root = (k == 0) ? BigInteger.ONE.shiftLeft(radicand.bitLength() / degree + 1) :
+                getIntegerRoot(radicand.shiftRight(degree * k), degree).add(BigInteger.ONE).shiftLeft(k);
+        final BigInteger bigDegree = BigInteger.valueOf(degree), bigDegreeDecrement = BigInteger.valueOf(degree - 1);
+
+        while (true) {
+            // next = ((degree - 1) * root + radicand / root^(degree - 1)) / degree
+            final BigInteger next = root.multiply(bigDegreeDecrement)
+                    .add(radicand.divide(root.pow(degree - 1))).divide(bigDegree);
+
+            if (next.compareTo(root) >= 0)
+                return root;
+
+            root = next;
+        }
+    }
 
-        return null;
+    private static boolean isRadixFree(@NotNull final Number number) {
+        return number.equals(Number.ZERO) || number.equals(Number.POSITIVE_ONE) || number.equals(Number.NEGATIVE_ONE);
     }
 }
\ No newline at end of file
@@ -0,0 +1,237 @@
+package com.iskandev.rdxcalc.algoengine;
+
+import net.jcip.annotations.Immutable;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+
+/**
+ * {@code ConversionPlan} stores everything that depends only on a (source radix, target radix) pair,
+ * so a conversion of a concrete {@link Number} doesn't need any setup
+ *
+ * The integer part is read and written by chunks of digits which fit in a {@code long}
+ * (the largest {@code k} such that {@code radix^k} fits in a {@code long}),
+ * the fractional part is produced by blocks of the same size
+ *
+ * Plans for all of the pairs are created once and cached
+ *
+ * @see #of(int, int)
+ */
+@Immutable
+final class ConversionPlan {
+
+    /**
+     * Numeric values of the digit-characters ('0'-'9', 'A'-'Z'), or -1 if a character isn't a digit
+     */
+    private static final byte[] DIGIT_VALUES = new byte[128];
+
+    /**
+     * Digit-characters of the values 0..35
+     */
+    private static final char[] DIGIT_CHARS = new char[Number.MAX_RADIX];
+
+    private static final ConversionPlan[][] PLANS =
+            new ConversionPlan[Number.MAX_RADIX + 1][Number.MAX_RADIX + 1];
+
+    static {
+        Arrays.fill(DIGIT_VALUES, (byte) -1);
+        for (int digit = 0; digit < Number.MAX_RADIX; digit++) {
+            DIGIT_CHARS[digit] = Converter.forDigit(digit);
+            DIGIT_VALUES[DIGIT_CHARS[digit]] = (byte) digit;
+        }
+
+        for (int source = Number.MIN_RADIX; source <= Number.MAX_RADIX; source++)
+            for (int target = Number.MIN_RADIX; target <= Number.MAX_RADIX; target++)
+                PLANS[source][target] = new ConversionPlan(source, target);
+    }
+
+
+    private final int sourceRadix, targetRadix;
+
+    // The amount of digits in one chunk
+    private final int sourceChunkLength, targetChunkLength;
+
+    // radix^0 .. radix^chunkLength
+    private final long[] sourcePowers, targetPowers;
+
+    // radix^chunkLength
+    private final BigInteger sourceChunkPower, targetChunkPower;
+
+    private final BigInteger bigSourceRadix;
+
+
+    private ConversionPlan(final int sourceRadix, final int targetRadix) {
+        this.sourceRadix = sourceRadix;
+        this.targetRadix = targetRadix;
+
+        sourcePowers = getPowers(sourceRadix);
+        targetPowers = getPowers(targetRadix);
+
+        sourceChunkLength = sourcePowers.length - 1;
+        targetChunkLength = targetPowers.length - 1;
+
+        sourceChunkPower = BigInteger.valueOf(sourcePowers[sourceChunkLength]);
+        targetChunkPower = BigInteger.valueOf(targetPowers[targetChunkLength]);
+
+        bigSourceRadix = BigInteger.valueOf(sourceRadix);
+    }
+
+    @NotNull
+    static ConversionPlan of(final int sourceRadix, final int targetRadix) {
+        NumberCorrector.checkNumberRadix(sourceRadix);
+        NumberCorrector.checkNumberRadix(targetRadix);
+        return PLANS[sourceRadix][targetRadix];
+    }
+
+    static int digitValue(final char digit) {
+        return (digit < DIGIT_VALUES.length) ? DIGIT_VALUES[digit] : -1;
+    }
+
+    static char digitChar(final int value) {
+        return DIGIT_CHARS[value];
+    }
+
+
+    /**
+     * Converts an unsigned representation of a number in the source radix
+     * to the target radix, keeping not more than {@code fractionalLength} fractional digits
+     *
+     * If the target radix is decimal the last fractional digit is rounded (HALF_UP), otherwise it's truncated
+     */
+    @NotNull
+    String convert(@NotNull final String integerPart, @NotNull final String fractionalPart, final int fractionalLength) {
+
+        BigInteger integerValue = readInteger(integerPart, 0, integerPart.length());
+
+        String fractionalResult = "";
+
+        if (!fractionalPart.isEmpty()) {
+            final char[] fractionalDigits = new char[fractionalLength];
+            int producedLength = 0;
+
+            // The fraction is exactly 'numerator / denominator'
+            BigInteger numerator = readInteger(fractionalPart, 0, fractionalPart.length());
+            final BigInteger denominator = bigSourceRadix.pow(fractionalPart.length());
+
+            // Produce target digits by blocks: each block is the integer part of 'fraction * targetRadix^blockLength'
+            for (int offset = 0; offset < fractionalLength; offset += targetChunkLength) {
+                final int blockLength = Math.min(targetChunkLength, fractionalLength - offset);
+                final BigInteger[] division = numerator.multiply(blockLength == targetChunkLength ?
+                        targetChunkPower : BigInteger.valueOf(targetPowers[blockLength])).divideAndRemainder(denominator);
+
+                writeChunk(division[0].longValue(), fractionalDigits, offset, blockLength);
+                numerator = division[1];
+                producedLength = offset + blockLength;
+
+                // The expansion is terminating: the next digits are zeros, don't produce them
+                if (numerator.signum() == 0)
+                    break;
+            }
+
+            // Round the last digit and carry the overflow to the integer part if it's necessary
+            if (targetRadix == 10 && numerator.shiftLeft(1).compareTo(denominator) >= 0 &&
+                    !incrementDigits(fractionalDigits))
+                integerValue = integerValue.add(BigInteger.ONE);
+
+            fractionalResult = new String(fractionalDigits, 0, producedLength);
+        }
+
+        final String integerResult = writeInteger(integerValue);
+
+        return fractionalResult.isEmpty() ? integerResult : (integerResult + '.' + fractionalResult);
+    }
+
+    /**
+     * Reads digits {@code [from, to)} of {@code represent} as an integer, one {@code long}-sized chunk at a time
+     */
+    @NotNull
+    private BigInteger readInteger(@NotNull final String represent, final int from, final int to) {
+        BigInteger result = BigInteger.ZERO;
+
+        // The first chunk is incomplete so that all of the other chunks have the full length
+        int chunkEnd = from + (to - from) % sourceChunkLength;
+        if (chunkEnd == from)
+            chunkEnd += sourceChunkLength;
+
+        for (int chunkStart = from; chunkStart < to; chunkStart = chunkEnd, chunkEnd += sourceChunkLength) {
+            long chunk = 0;
+            for (int i = chunkStart; i < chunkEnd; i++)
+                chunk = chunk * sourceRadix + digitValue(represent.charAt(i));
+
+            final int length = chunkEnd - chunkStart;
+            result = result.multiply(length == sourceChunkLength ?
+                    sourceChunkPower : BigInteger.valueOf(sourcePowers[length])).add(BigInteger.valueOf(chunk));
+        }
+
+        return result;
+    }
+
+    @NotNull
+    private String writeInteger(@NotNull BigInteger value) {
+        if (value.signum() == 0)
+            return "0";
+
+        // Upper bound of the result length: ceil(bitLength / log2(targetRadix)) + 1
+        final char[] digits = new char[(int) (value.bitLength() / (Math.log(targetRadix) / Math.log(2))) + 2];
+        int start = digits.length;
+
+        // Take the least significant chunk, one machine-word division at a time
+        while (value.bitLength() > 63) {
+            final BigInteger[] division = value.divideAndRemainder(targetChunkPower);
+            start -= targetChunkLength;
+            writeChunk(division[1].longValue(), digits, start, targetChunkLength);
+            value = division[0];
+        }
+
+        // The most significant chunk has no leading zeros
+        for (long rest = value.longValue(); rest > 0; rest /= targetRadix)
+            digits[--start] = DIGIT_CHARS[(int) (rest % targetRadix)];
+
+        return new String(digits, start, digits.length - start);
+    }
+
+    /**
+     * Writes {@code chunk} as exactly {@code length} target digits (with leading zeros)
+     */
+    private void writeChunk(long chunk, @NotNull final char[] digits, final int offset, final int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            digits[i] = DIGIT_CHARS[(int) (chunk % targetRadix)];
+            chunk /= targetRadix;
+        }
+    }
+
+    /**
+     * Adds one to the last digit
+     * @return false if the overflow went out of the most significant digit
+     */
+    private boolean incrementDigits(@NotNull final char[] digits) {
+        for (int i = digits.length - 1; i >= 0; i--) {
+            final int digit = digitValue(digits[i]) + 1;
+            if (digit < targetRadix) {
+                digits[i] = DIGIT_CHARS[digit];
+                return true;
+            }
+            digits[i] = '0';
+        }
+        return false;
+    }
+
+    /**
+     * @return radix^0 .. radix^k where k is the largest exponent such that radix^k fits in a {@code long}
+     */
+    @NotNull
+    private static long[] getPowers(final int radix) {
+        int length = 1;
+        for (long power = radix; power <= Long.MAX_VALUE / radix; power *= radix)
+            length++;
+
+        final long[] powers = new long[length + 1];
+        powers[0] = 1;
+        for (int i = 1; i <= length; i++)
+            powers[i] = powers[i - 1] * radix;
+
+        return powers;
+    }
+}
@@ -0,0 +1,263 @@
+package com.iskandev.rdxcalc.algoengine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+
+/**
+ * {@code DigitArithmetic} performs arithmetic on unsigned digit arrays of the same radix
+ *
+ * A digit array is little-endian (digit[0] is the least significant) and has no leading (high) zeros,
+ * so zero is an empty array
+ * The position of a radix point isn't stored in an array: it's the business of a caller
+ */
+final class DigitArithmetic {
+
+    static final int[] ZERO = new int[0];
+
+    /**
+     * @deprecated useless unused constructor
+     * {@code DigitArithmetic}-class doesn't require to create an instance to perform arithmetic operations
+     *
+     * And it requires to use static methods instead
+     */
+    @Deprecated
+    private DigitArithmetic() {}
+
+    /* Conversion between Number and digit arrays */
+
+    /**
+     * @return all of the digits (integer and fractional) of the {@code number};
+     * the amount of fractional digits is {@code number.getFractionalPartRepresent().length()}
+     */
+    @NotNull
+    static int[] toDigits(@NotNull final Number number) {
+        final String integerPart = number.getIntegerPartRepresent(), fractionalPart = number.getFractionalPartRepresent();
+        final int[] digits = new int[integerPart.length() + fractionalPart.length()];
+
+        int i = digits.length;
+        for (int j = 0; j < integerPart.length(); j++)
+            digits[--i] = ConversionPlan.digitValue(integerPart.charAt(j));
+        for (int j = 0; j < fractionalPart.length(); j++)
+            digits[--i] = ConversionPlan.digitValue(fractionalPart.charAt(j));
+
+        return strip(digits, digits.length);
+    }
+
+    /**
+     * number = N / radix^f, where N is all of its digits and f is the amount of its fractional digits
+     * @return unsigned N
+     */
+    @NotNull
+    static BigInteger toUnscaledValue(@NotNull final Number number) {
+        return new BigInteger(number.getIntegerPartRepresent() + number.getFractionalPartRepresent(), number.getRadix());
+    }
+
+    /**
+     * @param scale the amount of fractional digits in {@code digits}
+     */
+    @NotNull
+    static Number toNumber(@NotNull final int[] digits, final int scale, final int radix, final int signum) {
+        if (digits.length == 0)
+            return Number.ZERO;
+
+        final int integerLength = Math.max(digits.length - scale, 1);
+        final char[] represent = new char[integerLength + (scale > 0 ? 1 + scale : 0)];
+
+        int i = 0;
+        for (int position = integerLength - 1; position >= 0; position--)
+            represent[i++] = ConversionPlan.digitChar(getDigit(digits, position + scale));
+
+        if (scale > 0) {
+            represent[i++] = '.';
+            for (int position = scale - 1; position >= 0; position--)
+                represent[i++] = ConversionPlan.digitChar(getDigit(digits, position));
+        }
+
+        return Number.valueOfUnsigned(radix, new String(represent), signum);
+    }
+
+    /* Multiplication kernels */
+
+    /**
+     * Schoolbook multiplication, or the NTT one if both of the operands are long enough
+     *
+     * @see NttMultiplier#THRESHOLD
+     */
+    @NotNull
+    static int[] multiply(@NotNull final int[] a, @NotNull final int[] b, final int radix) {
+        if (a.length == 0 || b.length == 0)
+            return ZERO;
+
+        if (a == b)
+            return square(a, radix);
+
+        if (Math.min(a.length, b.length) >= NttMultiplier.THRESHOLD) {
+            final int[] product = NttMultiplier.multiply(a, b, radix);
+            if (product != null)
+                return product;
+        }
+
+        // Accumulate the column sums and propagate the carries only once at the end
+        final long[] columns = new long[a.length + b.length];
+
+        for (int i = 0; i < a.length; i++) {
+            final long digitOfA = a[i];
+            if (digitOfA == 0)
+                continue;
+            for (int j = 0; j < b.length; j++)
+                columns[i + j] += digitOfA * b[j];
+        }
+
+        return propagateCarries(columns, radix);
+    }
+
+    /**
+     * Dedicated squaring: every cross product {@code a[i]*a[j]} ({@code i != j}) is computed only once and doubled,
+     * so it takes about a half of the multiplications of {@link #multiply(int[], int[], int)}
+     */
+    @NotNull
+    static int[] square(@NotNull final int[] a, final int radix) {
+        if (a.length == 0)
+            return ZERO;
+
+        if (a.length >= NttMultiplier.THRESHOLD) {
+            final int[] square = NttMultiplier.multiply(a, a, radix);
+            if (square != null)
+                return square;
+        }
+
+        final long[] columns = new long[2 * a.length];
+
+        for (int i = 0; i < a.length; i++) {
+            final long digit = a[i];
+            if (digit == 0)
+                continue;
+            for (int j = i + 1; j < a.length; j++)
+                columns[i + j] += digit * a[j];
+        }
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i] <<= 1;
+
+        for (int i = 0; i < a.length; i++)
+            columns[2 * i] += (long) a[i] * a[i];
+
+        return propagateCarries(columns, radix);
+    }
+
+    @NotNull
+    private static int[] propagateCarries(@NotNull final long[] columns, final int radix) {
+        final int[] result = new int[columns.length];
+        long carry = 0;
+
+        for (int i = 0; i < columns.length; i++) {
+            final long column = columns[i] + carry;
+            result[i] = (int) (column % radix);
+            carry = column / radix;
+        }
+
+        return strip(result, result.length);
+    }
+
+    /* Helpers for the reductions */
+
+    static int compare(@NotNull final int[] a, @NotNull final int[] b) {
+        if (a.length != b.length)
+            return Integer.compare(a.length, b.length);
+
+        for (int i = a.length - 1; i >= 0; i--)
+            if (a[i] != b[i])
+                return Integer.compare(a[i], b[i]);
+
+        return 0;
+    }
+
+    /**
+     * @return {@code a - b}, {@code a} must be not less than {@code b}
+     */
+    @NotNull
+    static int[] subtract(@NotNull final int[] a, @NotNull final int[] b, final int radix) {
+        final int[] result = new int[a.length];
+        int taker = 0;
+
+        for (int i = 0; i < a.length; i++) {
+            int digit = a[i] - getDigit(b, i) - taker;
+            taker = (digit < 0) ? 1 : 0;
+            if (taker == 1)
+                digit += radix;
+            result[i] = digit;
+        }
+
+        return strip(result, result.length);
+    }
+
+    /**
+     * @return {@code floor(a / radix^count)}
+     */
+    @NotNull
+    static int[] shiftDown(@NotNull final int[] a, final int count) {
+        return (count >= a.length) ? ZERO : Arrays.copyOfRange(a, count, a.length);
+    }
+
+    /**
+     * @return {@code a mod radix^count}
+     */
+    @NotNull
+    static int[] lowDigits(@NotNull final int[] a, final int count) {
+        return strip(a, Math.min(count, a.length));
+    }
+
+    /**
+     * @return {@code a + radix^position}, {@code a} must be less than {@code radix^position}
+     */
+    @NotNull
+    static int[] withTopDigit(@NotNull final int[] a, final int position) {
+        final int[] result = Arrays.copyOf(a, position + 1);
+        result[position] = 1;
+        return result;
+    }
+
+    /**
+     * Schoolbook long division, a quotient digit is found by the repeated subtraction
+     * Used only to prepare a reduction, not in its loop
+     *
+     * @return {quotient, remainder}
+     */
+    @NotNull
+    static int[][] divide(@NotNull final int[] a, @NotNull final int[] divisor, final int radix) {
+        final int[] quotient = new int[a.length];
+        int[] remainder = ZERO;
+
+        for (int i = a.length - 1; i >= 0; i--) {
+            // remainder = remainder * radix + a[i]
+            final int[] shifted = new int[remainder.length + 1];
+            System.arraycopy(remainder, 0, shifted, 1, remainder.length);
+            shifted[0] = a[i];
+            remainder = strip(shifted, shifted.length);
+
+            int digit = 0;
+            while (compare(remainder, divisor) >= 0) {
+                remainder = subtract(remainder, divisor, radix);
+                digit++;
+            }
+            quotient[i] = digit;
+        }
+
+        return new int[][] {strip(quotient, quotient.length), remainder};
+    }
+
+    @NotNull
+    private static int[] strip(@NotNull final int[] digits, int length) {
+        while (length > 0 && digits[length - 1] == 0)
+            length--;
+
+        return (length == digits.length) ? digits : Arrays.copyOf(digits, length);
+    }
+
+    private static int getDigit(@NotNull final int[] digits, final int position) {
+        return (position < digits.length) ? digits[position] : 0;
+    }
+}
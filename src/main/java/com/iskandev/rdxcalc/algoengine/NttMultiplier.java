@@ -0,0 +1,332 @@
+package com.iskandev.rdxcalc.algoengine;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * {@code NttMultiplier} multiplies huge digit arrays by the number-theoretic transform
+ *
+ * Digits are packed into chunks of {@code radix^c}, the chunks are convolved modulo three NTT-primes
+ * and the exact convolution is restored by the Chinese remainder theorem (Garner's algorithm).
+ * The chunk size is chosen so that every exact coefficient is less than 2^62 (the product of the primes is about 2^86)
+ * All of the arithmetic is exact integer one
+ *
+ * The convolutions modulo the primes are run in parallel, and every stage of a large transform is split
+ * between the threads of the common fork-join pool
+ *
+ * The thresholds can be tuned by the system properties:
+ * {@value #THRESHOLD_PROPERTY} - the min amount of digits of both operands to use this multiplier,
+ * {@value #PARALLEL_THRESHOLD_PROPERTY} - the min transform length to split its stages between threads
+ *
+ * @see DigitArithmetic#multiply(int[], int[], int)
+ */
+final class NttMultiplier {
+
+    static final String THRESHOLD_PROPERTY = "rdxcalc.ntt.threshold";
+
+    static final String PARALLEL_THRESHOLD_PROPERTY = "rdxcalc.ntt.parallelThreshold";
+
+    static final int THRESHOLD = Integer.getInteger(THRESHOLD_PROPERTY, 600);
+
+    private static final int PARALLEL_THRESHOLD = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, 1 << 16);
+
+    // The amount of butterflies which a thread performs without a splitting
+    private static final int BUTTERFLIES_PER_TASK = 1 << 13;
+
+    // Primes p = k * 2^m + 1 with the primitive root 3
+    private static final long[] PRIMES = {998244353L, 469762049L, 167772161L};
+
+    private static final long PRIMITIVE_ROOT = 3;
+
+    // The longest transform which all of the primes support (998244353 = 119 * 2^23 + 1)
+    private static final int MAX_TRANSFORM_LENGTH = 1 << 23;
+
+    private static final double MAX_COEFFICIENT = 0x1p62;
+
+    // For Garner's algorithm
+    private static final long P1_INVERSE_MOD_P2 = inverse(PRIMES[0] % PRIMES[1], PRIMES[1]);
+
+    private static final long P1P2_INVERSE_MOD_P3 = inverse(PRIMES[0] % PRIMES[2] * (PRIMES[1] % PRIMES[2]) % PRIMES[2], PRIMES[2]);
+
+    /**
+     * @deprecated useless unused constructor
+     * {@code NttMultiplier}-class doesn't require to create an instance to perform a multiplication
+     *
+     * And it requires to use static method instead
+     *
+     * @see #multiply(int[], int[], int)
+     */
+    @Deprecated
+    private NttMultiplier() {}
+
+    /**
+     * @return the product, or null if the operands are too long even for one-digit chunks
+     */
+    @Nullable
+    static int[] multiply(@NotNull final int[] a, @NotNull final int[] b, final int radix) {
+
+        // The largest chunk such that the coefficients of the convolution can be restored exactly
+        for (int chunkLength = getMaxChunkLength(radix); chunkLength >= 1; chunkLength--) {
+            final long chunkBase = pow(radix, chunkLength);
+
+            final int lengthA = (a.length + chunkLength - 1) / chunkLength, lengthB = (b.length + chunkLength - 1) / chunkLength;
+            final int transformLength = Integer.highestOneBit(Math.max(lengthA + lengthB - 1, 1) * 2 - 1);
+
+            if (transformLength > MAX_TRANSFORM_LENGTH)
+                return null;
+
+            if ((double) Math.min(lengthA, lengthB) * (chunkBase - 1) * (chunkBase - 1) < MAX_COEFFICIENT)
+                return multiply(a, b, radix, chunkLength, chunkBase, transformLength);
+        }
+
+        return null;
+    }
+
+    @NotNull
+    private static int[] multiply(@NotNull final int[] a, @NotNull final int[] b, final int radix,
+                                  final int chunkLength, final long chunkBase, final int transformLength) {
+
+        final long[] chunksA = pack(a, radix, chunkLength), chunksB = (a == b) ? chunksA : pack(b, radix, chunkLength);
+
+        // The convolutions modulo every prime are independent
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final RecursiveTask<long[]>[] convolutions = new RecursiveTask[PRIMES.length];
+        for (int i = 0; i < PRIMES.length; i++) {
+            final long prime = PRIMES[i];
+            convolutions[i] = new RecursiveTask<>() {
+                @Override
+                protected long[] compute() {
+                    return convolve(chunksA, chunksB, transformLength, prime);
+                }
+            };
+        }
+        ForkJoinTask.invokeAll(convolutions);
+
+        final long[] residues1 = convolutions[0].join(), residues2 = convolutions[1].join(), residues3 = convolutions[2].join();
+
+        // Restore the exact coefficients and propagate the carries in the chunk base
+        final int resultLength = chunksA.length + chunksB.length;
+        final long[] resultChunks = new long[resultLength];
+        long carry = 0;
+
+        for (int i = 0; i < resultLength; i++) {
+            final long coefficient = (i < transformLength) ? restore(residues1[i], residues2[i], residues3[i]) : 0;
+            final long value = coefficient + carry;
+            resultChunks[i] = value % chunkBase;
+            carry = value / chunkBase;
+        }
+
+        return unpack(resultChunks, radix, chunkLength);
+    }
+
+    /**
+     * @return the cyclic convolution of {@code a} and {@code b} modulo {@code prime}
+     */
+    @NotNull
+    private static long[] convolve(@NotNull final long[] a, @NotNull final long[] b, final int transformLength, final long prime) {
+        final long[] transformA = new long[transformLength];
+        for (int i = 0; i < a.length; i++)
+            transformA[i] = a[i] % prime;
+        transform(transformA, false, prime);
+
+        final long[] transformB;
+        if (a == b)
+            transformB = transformA;
+        else {
+            transformB = new long[transformLength];
+            for (int i = 0; i < b.length; i++)
+                transformB[i] = b[i] % prime;
+            transform(transformB, false, prime);
+        }
+
+        for (int i = 0; i < transformLength; i++)
+            transformA[i] = transformA[i] * transformB[i] % prime;
+
+        transform(transformA, true, prime);
+
+        final long lengthInverse = inverse(transformLength, prime);
+        for (int i = 0; i < transformLength; i++)
+            transformA[i] = transformA[i] * lengthInverse % prime;
+
+        return transformA;
+    }
+
+    /**
+     * Iterative in-place Cooley-Tukey transform, the butterflies of one stage are independent
+     * Values are less than {@code prime < 2^30}, so their products fit in a {@code long}
+     */
+    private static void transform(@NotNull final long[] values, final boolean isInverse, final long prime) {
+        final int length = values.length;
+
+        // Bit-reversal permutation
+        for (int i = 1, j = 0; i < length; i++) {
+            int bit = length >> 1;
+            for (; (j & bit) != 0; bit >>= 1)
+                j ^= bit;
+            j ^= bit;
+
+            if (i < j) {
+                final long swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+        }
+
+        for (int blockLength = 2; blockLength <= length; blockLength <<= 1) {
+            final int half = blockLength >> 1;
+
+            long root = modPow(PRIMITIVE_ROOT, (prime - 1) / blockLength, prime);
+            if (isInverse)
+                root = inverse(root, prime);
+
+            final long[] twiddles = new long[half];
+            twiddles[0] = 1;
+            for (int k = 1; k < half; k++)
+                twiddles[k] = twiddles[k - 1] * root % prime;
+
+            final Stage stage = new Stage(values, twiddles, prime, 0, length >> 1);
+            if (length >= PARALLEL_THRESHOLD)
+                stage.invoke();
+            else
+                stage.computeDirectly();
+        }
+    }
+
+    /**
+     * Butterflies {@code [from, to)} of one transform stage
+     */
+    private static final class Stage extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] values, twiddles;
+
+        private final long prime;
+
+        private final int from, to;
+
+        Stage(@NotNull final long[] values, @NotNull final long[] twiddles, final long prime, final int from, final int to) {
+            this.values = values;
+            this.twiddles = twiddles;
+            this.prime = prime;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BUTTERFLIES_PER_TASK) {
+                computeDirectly();
+                return;
+            }
+
+            final int middle = (from + to) >>> 1;
+            invokeAll(new Stage(values, twiddles, prime, from, middle), new Stage(values, twiddles, prime, middle, to));
+        }
+
+        void computeDirectly() {
+            final int half = twiddles.length;
+
+            for (int butterfly = from; butterfly < to; butterfly++) {
+                final int k = butterfly % half;
+                final int i = (butterfly - k) * 2 + k, j = i + half;
+
+                final long u = values[i], v = values[j] * twiddles[k] % prime;
+                values[i] = (u + v < prime) ? (u + v) : (u + v - prime);
+                values[j] = (u - v >= 0) ? (u - v) : (u - v + prime);
+            }
+        }
+    }
+
+    /**
+     * Garner's algorithm: coefficient = x1 + x2 * p1 + x3 * p1 * p2
+     * The coefficient is less than 2^62, so the wrapping {@code long} arithmetic gives it exactly
+     */
+    private static long restore(final long residue1, final long residue2, final long residue3) {
+        final long p1 = PRIMES[0], p2 = PRIMES[1], p3 = PRIMES[2];
+
+        final long x1 = residue1;
+        final long x2 = Math.floorMod(residue2 - x1 % p2, p2) * P1_INVERSE_MOD_P2 % p2;
+        final long x12ModP3 = (x1 % p3 + (x2 % p3) * (p1 % p3)) % p3;
+        final long x3 = Math.floorMod(residue3 - x12ModP3, p3) * P1P2_INVERSE_MOD_P3 % p3;
+
+        return x1 + x2 * p1 + x3 * p1 * p2;
+    }
+
+    /**
+     * @return little-endian chunks of {@code radix^chunkLength}
+     */
+    @NotNull
+    private static long[] pack(@NotNull final int[] digits, final int radix, final int chunkLength) {
+        final long[] chunks = new long[(digits.length + chunkLength - 1) / chunkLength];
+
+        for (int i = 0; i < chunks.length; i++) {
+            long chunk = 0;
+            for (int j = Math.min((i + 1) * chunkLength, digits.length) - 1; j >= i * chunkLength; j--)
+                chunk = chunk * radix + digits[j];
+            chunks[i] = chunk;
+        }
+
+        return chunks;
+    }
+
+    @NotNull
+    private static int[] unpack(@NotNull final long[] chunks, final int radix, final int chunkLength) {
+        final int[] digits = new int[chunks.length * chunkLength];
+
+        for (int i = 0; i < chunks.length; i++) {
+            long chunk = chunks[i];
+            for (int j = i * chunkLength; j < (i + 1) * chunkLength; j++) {
+                digits[j] = (int) (chunk % radix);
+                chunk /= radix;
+            }
+        }
+
+        int length = digits.length;
+        while (length > 0 && digits[length - 1] == 0)
+            length--;
+
+        return Arrays.copyOf(digits, length);
+    }
+
+    private static int getMaxChunkLength(final int radix) {
+        // A chunk must be less than 2^31 (the coefficient limit shortens it anyway)
+        int chunkLength = 1;
+        while (pow(radix, chunkLength + 1) < (1L << 31))
+            chunkLength++;
+        return chunkLength;
+    }
+
+    private static long pow(final long base, final int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++)
+            result *= base;
+        return result;
+    }
+
+    private static long modPow(long base, long exponent, final long modulus) {
+        long result = 1;
+        base %= modulus;
+
+        for (; exponent > 0; exponent >>= 1) {
+            if ((exponent & 1) == 1)
+                result = result * base % modulus;
+            base = base * base % modulus;
+        }
+
+        return result;
+    }
+
+    /**
+     * By Fermat's little theorem, {@code modulus} is prime
+     */
+    private static long inverse(final long value, final long modulus) {
+        return modPow(value, modulus - 2, modulus);
+    }
+}
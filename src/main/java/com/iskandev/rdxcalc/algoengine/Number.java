@@ -6,7 +6,11 @@ import net.jcip.annotations.Immutable;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 
 @Immutable
@@ -38,6 +42,23 @@ public final class Number implements Comparable<Number> {
 
     private final int signum;
 
+    /*
+    Lazily filled views of the Number (racy single-check idiom, like String#hashCode)
+    Each of them is derived only from the final fields above, so if a thread sees an unfilled (null or 0) view,
+    it recomputes the same value and rewrites it - that's why they need neither 'volatile' nor locking
+     */
+    private BigDecimal decimalValue;
+
+    /*
+    Renderings in the other radixes, indexed by radix (the decimal one is used by compareTo() and hashCode())
+    The array is created on the first conversion: a Number which is never converted doesn't pay for it
+     */
+    private Number[] conversions;
+
+    private int hash;
+
+    private String stringView;
+
 
     @Contract
     private Number(final int radix, @NotNull final String unsignedRepresent, final int signum) {
@@ -118,7 +139,28 @@ public final class Number implements Comparable<Number> {
     @NotNull
     public Number convertTo(final int radix) {
         NumberCorrector.checkNumberRadix(radix);
-        return Converter.getConversion(this, radix);
+
+        if (radix == this.radix)
+            return this;
+
+        return getCachedConversion(radix);
+    }
+
+    /**
+     * @return exact expansion in the {@code radix}: its fractional digits are generated only when they are requested
+     */
+    @NotNull
+    public RadixExpansion expandTo(final int radix) {
+        NumberCorrector.checkNumberRadix(radix);
+        return Converter.getExpansion(this, radix);
+    }
+
+    /**
+     * @return exact fraction of the same value: chains of its operations don't divide or round anything
+     */
+    @NotNull
+    public RationalNumber toRational() {
+        return RationalNumber.valueOf(this);
     }
 
     @NotNull
@@ -145,6 +187,54 @@ public final class Number implements Comparable<Number> {
         return NumberCorrector.getCheckedIfTooLargeNumber(ArithmeticOperationPerformer.getQuotient(this, divisorNumber));
     }
 
+    /**
+     * @return exact expansion of the quotient: its fractional digits are generated only when they are requested
+     */
+    @NotNull
+    public RadixExpansion divideToExpansion(@NotNull final Number divisorNumber) {
+        return ArithmeticOperationPerformer.getQuotientExpansion(this, divisorNumber);
+    }
+
+    /**
+     * The power is exact, so it has {@code exponent} times as many fractional digits as this Number,
+     * and that amount can't be more than {@value ArithmeticOperationPerformer#MAX_POWER_SCALE}
+     * (an IllegalArgumentException is thrown otherwise)
+     */
+    @NotNull
+    public Number pow(final int exponent) throws TooLargeNumberException {
+        // To avoid computing of a huge power which will be rejected anyway
+        NumberCorrector.checkIfPowerIsTooLarge(this, exponent);
+        return NumberCorrector.getCheckedIfTooLargeNumber(ArithmeticOperationPerformer.getPower(this, exponent));
+    }
+
+    /**
+     * All of the numbers must be integer, the {@code modulusNumber} must have the same radix as this Number
+     * (0 and ±1 are taken by their value in any radix)
+     * @return a non-negative Number less than {@code modulusNumber}, in its radix
+     */
+    @NotNull
+    public Number modPow(@NotNull final Number exponentNumber, @NotNull final Number modulusNumber) {
+        // The result is less than the modulus, so it can't be too large
+        return ArithmeticOperationPerformer.getModularPower(this, exponentNumber, modulusNumber);
+    }
+
+    /**
+     * @return square root truncated to {@code fractionalDigits} digits after the point in this Number's radix
+     */
+    @NotNull
+    public Number sqrt(final int fractionalDigits) {
+        // The root of a Number isn't more than the Number itself or 1, so it can't be too large
+        return ArithmeticOperationPerformer.getRoot(this, 2, fractionalDigits);
+    }
+
+    /**
+     * @return {@code degree}-th root truncated to {@code fractionalDigits} digits after the point in this Number's radix
+     */
+    @NotNull
+    public Number root(final int degree, final int fractionalDigits) {
+        return ArithmeticOperationPerformer.getRoot(this, degree, fractionalDigits);
+    }
+
 
     /**
      * Don't use in the {@link Converter}-class if {@code obj} doesn't equal:
@@ -173,23 +263,176 @@ public final class Number implements Comparable<Number> {
             return Integer.compare(signum, comparableNumber.signum);
 
         // Else anyway numbers have the same not zero-signum
-        else {
-            final BigDecimal thisNumDec = new BigDecimal(this.convertTo(10).getRepresent());
-            final BigDecimal compNumDec = new BigDecimal(comparableNumber.convertTo(10).getRepresent());
-
-            return thisNumDec.compareTo(compNumDec);
-        }
+        else
+            return this.getDecimalValue().compareTo(comparableNumber.getDecimalValue());
     }
 
     @Override
     public int hashCode() {
-        return new BigDecimal(this.convertTo(10).getRepresent()).hashCode();
+        int h = hash;
+        if (h == 0) {
+            h = getDecimalValue().hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     @Override
     @NotNull
     public String toString() {
-        return getRepresent() + " (" + radix + ")";
+        String view = stringView;
+        if (view == null) {
+            final char[] chars = new char[getRenderLength()];
+            writeTo(chars, 0);
+            view = new String(chars);
+            stringView = view;
+        }
+        return view;
+    }
+
+
+
+    /* Rendering without intermediate strings, in the same format as toString(): "-1A.F (16)" */
+
+    /**
+     * @return the exact amount of characters written by {@link #writeTo(char[], int)}
+     */
+    public int getRenderLength() {
+        return (signum < 0 ? 1 : 0) + unsignedRepresent.length() + 3 + getRadixLength(radix);
+    }
+
+    /**
+     * Counts the upper bound from the amount of integer digits and the radixes ratio,
+     * so it doesn't perform a conversion
+     *
+     * @return the upper bound of the amount of characters written by {@link #writeTo(char[], int, int)}
+     */
+    public int getMaxRenderLength(final int radix) {
+        NumberCorrector.checkNumberRadix(radix);
+
+        if (radix == this.radix)
+            return getRenderLength();
+
+        final int integerLength = (int) Math.ceil(integerPartRepresent.length() * Math.log(this.radix) / Math.log(radix)) + 1;
+        final int fractionalLength = fractionalPartRepresent.isEmpty() ? 0 : (1 + Converter.DEFAULT_FRACTIONAL_LENGTH);
+
+        // ZERO and ±ONE are never converted, so they keep the decimal radix: the max radix length is used
+        return (signum < 0 ? 1 : 0) + integerLength + fractionalLength + 3 + getRadixLength(MAX_RADIX);
+    }
+
+    @NotNull
+    public <A extends Appendable> A appendTo(@NotNull final A appendable) throws IOException {
+        if (signum < 0)
+            appendable.append('-');
+
+        appendable.append(unsignedRepresent).append(" (");
+
+        if (radix >= 10)
+            appendable.append(Converter.forDigit(radix / 10));
+
+        appendable.append(Converter.forDigit(radix % 10)).append(')');
+
+        return appendable;
+    }
+
+    /**
+     * The radix overloads render the conversion which is cached by {@link #convertTo(int)},
+     * so repeated renderings of a Number in any of the radixes don't allocate anything
+     */
+    @NotNull
+    public <A extends Appendable> A appendTo(@NotNull final A appendable, final int radix) throws IOException {
+        return convertTo(radix).appendTo(appendable);
+    }
+
+    /**
+     * @return the offset after the last written character
+     * @throws IndexOutOfBoundsException if {@code destination} hasn't {@link #getRenderLength()} characters after {@code offset}
+     */
+    public int writeTo(@NotNull final char[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, getRenderLength(), destination.length);
+
+        if (signum < 0)
+            destination[offset++] = '-';
+
+        unsignedRepresent.getChars(0, unsignedRepresent.length(), destination, offset);
+        offset += unsignedRepresent.length();
+
+        destination[offset++] = ' ';
+        destination[offset++] = '(';
+
+        if (radix >= 10)
+            destination[offset++] = Converter.forDigit(radix / 10);
+
+        destination[offset++] = Converter.forDigit(radix % 10);
+        destination[offset++] = ')';
+
+        return offset;
+    }
+
+    public int writeTo(@NotNull final char[] destination, final int offset, final int radix) {
+        return convertTo(radix).writeTo(destination, offset);
+    }
+
+    /**
+     * Number's representation consists only of ASCII characters, so every character is written as one byte
+     *
+     * @return the offset after the last written byte
+     * @throws IndexOutOfBoundsException if {@code destination} hasn't {@link #getRenderLength()} bytes after {@code offset}
+     */
+    public int writeAsciiTo(@NotNull final byte[] destination, int offset) {
+        Objects.checkFromIndexSize(offset, getRenderLength(), destination.length);
+
+        if (signum < 0)
+            destination[offset++] = '-';
+
+        for (int i = 0; i < unsignedRepresent.length(); i++)
+            destination[offset++] = (byte) unsignedRepresent.charAt(i);
+
+        destination[offset++] = ' ';
+        destination[offset++] = '(';
+
+        if (radix >= 10)
+            destination[offset++] = (byte) Converter.forDigit(radix / 10);
+
+        destination[offset++] = (byte) Converter.forDigit(radix % 10);
+        destination[offset++] = ')';
+
+        return offset;
+    }
+
+    public int writeAsciiTo(@NotNull final byte[] destination, final int offset, final int radix) {
+        return convertTo(radix).writeAsciiTo(destination, offset);
+    }
+
+    /**
+     * Writes from the buffer's position and moves it
+     *
+     * @throws BufferOverflowException if the buffer has less than {@link #getRenderLength()} remaining bytes
+     */
+    public void writeAsciiTo(@NotNull final ByteBuffer destination) {
+        if (destination.remaining() < getRenderLength())
+            throw new BufferOverflowException();
+
+        if (signum < 0)
+            destination.put((byte) '-');
+
+        for (int i = 0; i < unsignedRepresent.length(); i++)
+            destination.put((byte) unsignedRepresent.charAt(i));
+
+        destination.put((byte) ' ').put((byte) '(');
+
+        if (radix >= 10)
+            destination.put((byte) Converter.forDigit(radix / 10));
+
+        destination.put((byte) Converter.forDigit(radix % 10)).put((byte) ')');
+    }
+
+    public void writeAsciiTo(@NotNull final ByteBuffer destination, final int radix) {
+        convertTo(radix).writeAsciiTo(destination);
+    }
+
+    private static int getRadixLength(final int radix) {
+        return (radix >= 10) ? 2 : 1;
     }
 
 
@@ -212,6 +455,39 @@ public final class Number implements Comparable<Number> {
         return new Number(radix, unsignedRepresent, -signum);
     }
 
+    /* Lazy views */
+
+    @NotNull
+    private Number getCachedConversion(final int radix) {
+        Number[] slots = conversions;
+        if (slots == null) {
+            slots = new Number[MAX_RADIX + 1];
+            conversions = slots;
+        }
+
+        Number conversion = slots[radix];
+        if (conversion == null) {
+            conversion = Converter.getConversion(this, radix);
+            slots[radix] = conversion;
+        }
+        return conversion;
+    }
+
+    @NotNull
+    private Number getDecimalView() {
+        return (radix == 10) ? this : getCachedConversion(10);
+    }
+
+    @NotNull
+    BigDecimal getDecimalValue() {
+        BigDecimal value = decimalValue;
+        if (value == null) {
+            value = new BigDecimal(getDecimalView().getRepresent());
+            decimalValue = value;
+        }
+        return value;
+    }
+
     /* Getters */
 
     int getRadix() {
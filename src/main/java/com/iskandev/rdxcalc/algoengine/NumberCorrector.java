@@ -14,6 +14,7 @@ final class NumberCorrector {
      * And it requires to use static methods instead
      *
      * @see #getCheckedIfTooLargeNumber(Number)
+     * @see #checkIfPowerIsTooLarge(Number, int)
      * @see #getCleanedNumberRepresentation(String, int)
      * @see #getNumberPartsRepresents(String)
      * @see #checkNumberRadix(int)
@@ -33,6 +34,15 @@ final class NumberCorrector {
         return number;
     }
 
+    static void checkIfPowerIsTooLarge(@NotNull final Number base, final int exponent) throws TooLargeNumberException {
+
+        // log10(ABSOLUTE_MAX_DECIMAL_VALUE) < 25, so a power whose estimated decimal logarithm is more than 26 is too large
+        final double absoluteBase = base.getDecimalValue().abs().doubleValue();
+
+        if (absoluteBase > 1 && exponent * Math.log10(absoluteBase) > 26)
+            throw new TooLargeNumberException();
+    }
+
     static void checkNumberSignum(final int signum) {
         if (signum < -1 || signum > 1)
             throw new IllegalArgumentException("Signum out of range.");
@@ -0,0 +1,244 @@
+package com.iskandev.rdxcalc.algoengine;
+
+import net.jcip.annotations.Immutable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+
+/**
+ * {@code RadixExpansion} is an exact radix expansion of a rational value (a result of conversion or division):
+ * integer part and fraction {@code numerator / denominator}
+ *
+ * Fractional digits aren't computed until they are requested: they are pulled from a lazy iterator,
+ * and the repeating period can be found by the remainders tracking
+ *
+ * @see Number#expandTo(int)
+ * @see Number#divideToExpansion(Number)
+ */
+@Immutable
+public final class RadixExpansion {
+
+    /**
+     * Remainders up to this bit length are kept in a {@code long}: {@code remainder * radix} can't overflow
+     */
+    private static final int MAX_SMALL_DENOMINATOR_BIT_LENGTH = 57;
+
+    private final int radix;
+
+    private final int signum;
+
+    private final BigInteger integerPart;
+
+    // 0 <= numerator < denominator
+    private final BigInteger numerator, denominator;
+
+
+    private RadixExpansion(final int radix, final int signum, @NotNull final BigInteger integerPart,
+                           @NotNull final BigInteger numerator, @NotNull final BigInteger denominator) {
+        this.radix = radix;
+        this.signum = signum;
+        this.integerPart = integerPart;
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    /**
+     * @param dividend must be non-negative
+     * @param divisor must be positive
+     */
+    @NotNull
+    static RadixExpansion ofQuotient(@NotNull final BigInteger dividend, @NotNull final BigInteger divisor,
+                                     final int radix, final int signum) {
+        final BigInteger[] division = dividend.divideAndRemainder(divisor);
+        return new RadixExpansion(radix, (dividend.signum() == 0) ? 0 : signum, division[0], division[1], divisor);
+    }
+
+
+    /**
+     * @return a lazy iterator of the fractional digits, it has no next digit only if the expansion is terminating
+     */
+    @NotNull
+    public PrimitiveIterator.OfInt fractionalDigits() {
+        return new DigitIterator();
+    }
+
+    @NotNull
+    public Spliterator.OfInt fractionalDigitsSpliterator() {
+        return Spliterators.spliteratorUnknownSize(fractionalDigits(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * The expansion is terminating if the reduced denominator has no prime factors other than the radix's ones
+     */
+    public boolean isTerminating() {
+        BigInteger reducedDenominator = denominator.divide(denominator.gcd(numerator));
+        final BigInteger bigRadix = BigInteger.valueOf(radix);
+
+        for (BigInteger gcd = reducedDenominator.gcd(bigRadix); !gcd.equals(BigInteger.ONE); gcd = reducedDenominator.gcd(bigRadix))
+            reducedDenominator = reducedDenominator.divide(gcd);
+
+        return reducedDenominator.equals(BigInteger.ONE);
+    }
+
+    /**
+     * Generates fractional digits until a remainder repeats (or becomes zero)
+     * The digits generated since the first occurrence of that remainder are the cycle
+     *
+     * @param maxDigits the max amount of generated digits (prefix and cycle together), it bounds time and memory
+     * @return the prefix and the cycle, or null if they are longer than {@code maxDigits}
+     */
+    @Nullable
+    public Period findPeriod(final int maxDigits) {
+        final DigitIterator digits = new DigitIterator();
+        final Map<Object, Integer> remainderPositions = new HashMap<>();
+        final StringBuilder digitsStr = new StringBuilder();
+
+        for (int position = 0; ; position++) {
+            if (!digits.hasNext())
+                return new Period(digitsStr.toString(), "");
+
+            final Integer cycleStart = remainderPositions.putIfAbsent(digits.getRemainderKey(), position);
+            if (cycleStart != null)
+                return new Period(digitsStr.substring(0, cycleStart), digitsStr.substring(cycleStart));
+
+            if (position == maxDigits)
+                return null;
+
+            digitsStr.append(ConversionPlan.digitChar(digits.nextInt()));
+        }
+    }
+
+    /**
+     * @return the expansion truncated to {@code fractionalLength} fractional digits
+     */
+    @NotNull
+    Number toNumber(final int fractionalLength) {
+        final StringBuilder resultStr = new StringBuilder(getIntegerPartRepresent());
+        final PrimitiveIterator.OfInt digits = fractionalDigits();
+
+        if (digits.hasNext() && fractionalLength > 0) {
+            resultStr.append('.');
+            for (int i = 0; i < fractionalLength && digits.hasNext(); i++)
+                resultStr.append(ConversionPlan.digitChar(digits.nextInt()));
+        }
+
+        return (signum == 0) ? Number.ZERO : Number.valueOfUnsigned(radix, resultStr.toString(), signum);
+    }
+
+    /* Getters */
+
+    public int getRadix() {
+        return radix;
+    }
+
+    public int signum() {
+        return signum;
+    }
+
+    @NotNull
+    public String getIntegerPartRepresent() {
+        return integerPart.toString(radix).toUpperCase();
+    }
+
+
+    /**
+     * Produces digits one by one: {@code digit = remainder * radix / denominator},
+     * {@code remainder = remainder * radix mod denominator}
+     * Small denominators are handled in {@code long} arithmetic
+     */
+    private final class DigitIterator implements PrimitiveIterator.OfInt {
+
+        private final boolean isSmall = denominator.bitLength() <= MAX_SMALL_DENOMINATOR_BIT_LENGTH;
+
+        private final long smallDenominator = denominator.longValue();
+
+        private long smallRemainder = numerator.longValue();
+
+        private BigInteger bigRemainder = numerator;
+
+        private final BigInteger bigRadix = BigInteger.valueOf(radix);
+
+        @Override
+        public boolean hasNext() {
+            return isSmall ? (smallRemainder != 0) : (bigRemainder.signum() != 0);
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            if (isSmall) {
+                final long product = smallRemainder * radix;
+                smallRemainder = product % smallDenominator;
+                return (int) (product / smallDenominator);
+            }
+
+            final BigInteger[] division = bigRemainder.multiply(bigRadix).divideAndRemainder(denominator);
+            bigRemainder = division[1];
+            return division[0].intValue();
+        }
+
+        @NotNull
+        Object getRemainderKey() {
+            return isSmall ? (Object) smallRemainder : bigRemainder;
+        }
+    }
+
+    /**
+     * Fractional digits of an expansion: the prefix and the infinitely repeating cycle after it
+     * The cycle is empty if the expansion is terminating
+     */
+    @Immutable
+    public final class Period {
+
+        @NotNull
+        private final String prefix, cycle;
+
+        private Period(@NotNull final String prefix, @NotNull final String cycle) {
+            this.prefix = prefix;
+            this.cycle = cycle;
+        }
+
+        @NotNull
+        public String getPrefix() {
+            return prefix;
+        }
+
+        @NotNull
+        public String getCycle() {
+            return cycle;
+        }
+
+        /**
+         * @return e.g. "0.1(6) (10)" for 1/6, or "0.5 (10)" for 1/2
+         */
+        @Override
+        @NotNull
+        public String toString() {
+            final StringBuilder represent = new StringBuilder();
+
+            if (signum < 0)
+                represent.append('-');
+
+            represent.append(getIntegerPartRepresent());
+
+            if (!prefix.isEmpty() || !cycle.isEmpty())
+                represent.append('.').append(prefix);
+
+            if (!cycle.isEmpty())
+                represent.append('(').append(cycle).append(')');
+
+            return represent.append(" (").append(radix).append(')').toString();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.iskandev.rdxcalc.algoengine;
+
+import com.iskandev.rdxcalc.exceptions.TooLargeNumberException;
+import net.jcip.annotations.Immutable;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+
+
+/**
+ * {@code RationalNumber} is an exact fraction {@code numerator / denominator} in a radix
+ *
+ * Arithmetic operations neither divide nor round: they perform only integer multiplications and additions,
+ * and the fraction isn't reduced by GCD until it's checked for equality, hashed, rendered, or grows too long
+ * ({@link #compareTo(RationalNumber)} cross-multiplies and never reduces)
+ * The fraction is expanded to radix digits only on output
+ *
+ * The radix only labels the output, so 0 and ±1 (which always come from Number's decimal constants)
+ * take the radix of the other operand
+ *
+ * @see Number#toRational()
+ */
+@Immutable
+public final class RationalNumber implements Comparable<RationalNumber> {
+
+    /**
+     * An unreduced fraction whose denominator becomes longer is reduced by an operation
+     */
+    private static final int MAX_UNREDUCED_BIT_LENGTH = 4096;
+
+
+    private final int radix;
+
+    private final BigInteger numerator;
+
+    // Always positive
+    private final BigInteger denominator;
+
+    /*
+    Lazily filled reduced view of the fraction (racy single-check idiom, like in Number)
+    It's 'this' if the fraction is already reduced
+     */
+    private RationalNumber reduced;
+
+
+    private RationalNumber(final int radix, @NotNull final BigInteger numerator, @NotNull final BigInteger denominator) {
+        this.radix = radix;
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    /**
+     * @see DigitArithmetic#toUnscaledValue(Number)
+     */
+    @NotNull
+    static RationalNumber valueOf(@NotNull final Number number) {
+        final BigInteger allDigits = DigitArithmetic.toUnscaledValue(number);
+
+        return new RationalNumber(number.getRadix(),
+                (number.signum() < 0) ? allDigits.negate() : allDigits,
+                BigInteger.valueOf(number.getRadix()).pow(number.getFractionalPartRepresent().length()));
+    }
+
+
+    @NotNull
+    public RationalNumber convertTo(final int radix) {
+        NumberCorrector.checkNumberRadix(radix);
+        return (radix == this.radix) ? this : new RationalNumber(radix, numerator, denominator);
+    }
+
+    @NotNull
+    public RationalNumber add(@NotNull final RationalNumber addendNumber) {
+        final int resultRadix = getResultRadix(addendNumber);
+
+        // The common denominator is usual for the chains of operations, so don't multiply it
+        if (denominator.equals(addendNumber.denominator))
+            return getLimited(resultRadix, numerator.add(addendNumber.numerator), denominator);
+
+        return getLimited(resultRadix, numerator.multiply(addendNumber.denominator).add(addendNumber.numerator.multiply(denominator)),
+                denominator.multiply(addendNumber.denominator));
+    }
+
+    @NotNull
+    public RationalNumber subtract(@NotNull final RationalNumber subtrahendNumber) {
+        return add(subtrahendNumber.negate());
+    }
+
+    @NotNull
+    public RationalNumber multiply(@NotNull final RationalNumber multiplicandNumber) {
+        return getLimited(getResultRadix(multiplicandNumber), numerator.multiply(multiplicandNumber.numerator), denominator.multiply(multiplicandNumber.denominator));
+    }
+
+    @NotNull
+    public RationalNumber divide(@NotNull final RationalNumber divisorNumber) {
+        final int resultRadix = getResultRadix(divisorNumber);
+
+        if (divisorNumber.numerator.signum() == 0)
+            throw new IllegalArgumentException("Division by zero.");
+
+        // Keep the denominator positive
+        final BigInteger divisorSignum = BigInteger.valueOf(divisorNumber.numerator.signum());
+
+        return getLimited(resultRadix, numerator.multiply(divisorNumber.denominator).multiply(divisorSignum),
+                denominator.multiply(divisorNumber.numerator.abs()));
+    }
+
+    @NotNull
+    public RationalNumber negate() {
+        return new RationalNumber(radix, numerator.negate(), denominator);
+    }
+
+
+    /**
+     * @return exact expansion: its fractional digits are generated only when they are requested
+     */
+    @NotNull
+    public RadixExpansion expand() {
+        return RadixExpansion.ofQuotient(numerator.abs(), denominator, radix, numerator.signum());
+    }
+
+    /**
+     * @return the value truncated to {@code fractionalDigits} digits after the point
+     */
+    @NotNull
+    public Number toNumber(final int fractionalDigits) throws TooLargeNumberException {
+        return NumberCorrector.getCheckedIfTooLargeNumber(expand().toNumber(fractionalDigits));
+    }
+
+    /**
+     * @return the value truncated like the result of {@link Number#divide(Number)}
+     */
+    @NotNull
+    public Number toNumber() throws TooLargeNumberException {
+        return toNumber(Converter.DEFAULT_FRACTIONAL_LENGTH);
+    }
+
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+
+        if (!(obj instanceof RationalNumber))
+            return false;
+
+        final RationalNumber thisReduced = getReduced(), objReduced = ((RationalNumber) obj).getReduced();
+
+        return thisReduced.numerator.equals(objReduced.numerator) && thisReduced.denominator.equals(objReduced.denominator);
+    }
+
+    @Override
+    public int compareTo(@NotNull final RationalNumber comparableNumber) {
+        // Denominators are positive, so the cross-multiplication keeps the order
+        return numerator.multiply(comparableNumber.denominator).compareTo(comparableNumber.numerator.multiply(denominator));
+    }
+
+    @Override
+    public int hashCode() {
+        final RationalNumber thisReduced = getReduced();
+        return 31 * thisReduced.numerator.hashCode() + thisReduced.denominator.hashCode();
+    }
+
+    /**
+     * @return e.g. "-1/3 (10)", or "A (16)" if the fraction is an integer
+     */
+    @Override
+    @NotNull
+    public String toString() {
+        final RationalNumber thisReduced = getReduced();
+        final StringBuilder represent = new StringBuilder(thisReduced.numerator.toString(radix).toUpperCase());
+
+        if (!thisReduced.denominator.equals(BigInteger.ONE))
+            represent.append('/').append(thisReduced.denominator.toString(radix).toUpperCase());
+
+        return represent.append(" (").append(radix).append(')').toString();
+    }
+
+
+    @NotNull
+    private RationalNumber getReduced() {
+        RationalNumber view = reduced;
+        if (view == null) {
+            final BigInteger gcd = numerator.gcd(denominator);
+
+            // gcd(0, d) = d, so zero becomes 0/1
+            view = gcd.equals(BigInteger.ONE) ? this :
+                    new RationalNumber(radix, numerator.divide(gcd), denominator.divide(gcd));
+            reduced = view;
+        }
+        return view;
+    }
+
+    @NotNull
+    private static RationalNumber getLimited(final int radix, @NotNull final BigInteger numerator,
+                                             @NotNull final BigInteger denominator) {
+        final RationalNumber result = new RationalNumber(radix, numerator, denominator);
+        return (denominator.bitLength() > MAX_UNREDUCED_BIT_LENGTH) ? result.getReduced() : result;
+    }
+
+    private int getResultRadix(@NotNull final RationalNumber number) {
+        if (radix == number.radix || number.isRadixFree())
+            return radix;
+
+        if (isRadixFree())
+            return number.radix;
+
+        throw new IllegalArgumentException("Radixes aren't equal");
+    }
+
+    /**
+     * 0 and ±1 have the same digits in any radix
+     */
+    private boolean isRadixFree() {
+        return numerator.signum() == 0 || numerator.abs().equals(denominator);
+    }
+
+    /* Getters */
+
+    public int getRadix() {
+        return radix;
+    }
+
+    public int signum() {
+        return numerator.signum();
+    }
+}